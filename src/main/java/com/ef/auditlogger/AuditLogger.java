@@ -1,6 +1,9 @@
 package com.ef.auditlogger;
 
+import com.ef.auditlogger.dtos.AuditEvent;
 import com.ef.auditlogger.dtos.AuditInput;
+import com.ef.auditlogger.dtos.AuditLevel;
+import com.ef.auditlogger.dtos.AuditType;
 import com.ef.auditlogger.models.AuditLogPayload;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -32,21 +35,33 @@ public class AuditLogger {
      * Enhanced log method supporting manual StackTraceElement injection
      */
     public void log(Logger logger, AuditInput input, String fqcn, StackTraceElement caller) {
+        log(logger, (AuditEvent) input, fqcn, caller);
+    }
+
+    /**
+     * Typed variant, e.g. for a reused {@link com.ef.auditlogger.dtos.MutableAuditInput}
+     */
+    public void log(Logger logger, AuditEvent input, String fqcn) {
+        log(logger, input, fqcn, null);
+    }
+
+    public void log(Logger logger, AuditEvent input, String fqcn, StackTraceElement caller) {
         try {
-            String jsonMessage = buildJsonMessage(input);
+            AuditLevel level = input.getAuditLevel();
+            if (level == null) level = AuditLevel.INFO;
+            String jsonMessage = buildJsonMessage(input, level);
 
             Logger actualLogger = unwrap(logger);
 
             if (caller != null && REFLECTOR.isAvailable() && isLogback(actualLogger)) {
-                REFLECTOR.log(actualLogger, input.getLevel(), jsonMessage, caller);
+                REFLECTOR.log(actualLogger, level, jsonMessage, caller);
                 return;
             }
 
-            int levelInt = getSlf4jLevel(input.getLevel());
             if (logger instanceof LocationAwareLogger lAL) {
-                lAL.log(null, fqcn, levelInt, jsonMessage, null, null);
+                lAL.log(null, fqcn, level.getSlf4jLevel(), jsonMessage, null, null);
             } else {
-                logStandard(logger, levelInt, jsonMessage);
+                logStandard(logger, level.getSlf4jLevel(), jsonMessage);
             }
         } catch (Exception e) {
             logger.error("Audit logging failed", e);
@@ -65,16 +80,18 @@ public class AuditLogger {
         return logger;
     }
 
-    private String buildJsonMessage(AuditInput input) throws JsonProcessingException {
+    private String buildJsonMessage(AuditEvent input, AuditLevel level) throws JsonProcessingException {
         Map<String, Object> attributes = new HashMap<>();
         attributes.put("service", input.getService());
         attributes.put("tenantId", input.getTenantId());
         attributes.put("updated_data", input.getUpdatedData() != null ? input.getUpdatedData() : Map.of());
 
+        AuditType type = input.getAuditType();
+
         AuditLogPayload payload = AuditLogPayload.builder()
                 .timestamp(Instant.now().toString())
-                .type(sanitizeType(input.getType()))
-                .level(input.getLevel() != null ? input.getLevel().toLowerCase() : "info")
+                .type(type != null ? type.getJsonValue() : AUDIT_LOGGING)
+                .level(level.getJsonValue())
                 .userId(input.getUserId())
                 .userName(input.getUserName())
                 .action(input.getAction())
@@ -91,17 +108,6 @@ public class AuditLogger {
         return logger.getClass().getName().startsWith("ch.qos.logback.classic.Logger");
     }
 
-    private int getSlf4jLevel(String levelStr) {
-        if (levelStr == null) return LocationAwareLogger.INFO_INT;
-        return switch (levelStr.toUpperCase()) {
-            case "TRACE" -> LocationAwareLogger.TRACE_INT;
-            case "DEBUG" -> LocationAwareLogger.DEBUG_INT;
-            case "WARN" -> LocationAwareLogger.WARN_INT;
-            case "ERROR" -> LocationAwareLogger.ERROR_INT;
-            default -> LocationAwareLogger.INFO_INT;
-        };
-    }
-
     private void logStandard(Logger logger, int level, String msg) {
         switch (level) {
             case LocationAwareLogger.ERROR_INT -> logger.error(msg);
@@ -110,13 +116,4 @@ public class AuditLogger {
             default -> logger.info(msg);
         }
     }
-
-    private String sanitizeType(String inputType) {
-        if (inputType == null) return AUDIT_LOGGING;
-        String normalized = inputType.toLowerCase().trim();
-        if (normalized.contains("audit")) return AUDIT_LOGGING;
-        if (normalized.contains("metric")) return "metrics";
-        if (normalized.contains("trace")) return "tracing";
-        return AUDIT_LOGGING;
-    }
 }
\ No newline at end of file
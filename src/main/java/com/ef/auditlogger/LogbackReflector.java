@@ -1,11 +1,12 @@
 package com.ef.auditlogger;
 
+import com.ef.auditlogger.dtos.AuditLevel;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import org.slf4j.Logger;
 
 public class LogbackReflector {
-    private Method toLevelMethod;
+    private Object[] logbackLevels;
     private Constructor<?> eventConstructor;
     private Method setCallerMethod;
     private Method callAppendersMethod;
@@ -18,7 +19,11 @@ public class LogbackReflector {
             Class<?> eventClass = Class.forName("ch.qos.logback.classic.spi.LoggingEvent");
             Class<?> iLoggingEvent = Class.forName("ch.qos.logback.classic.spi.ILoggingEvent");
 
-            toLevelMethod = levelClass.getMethod("toLevel", String.class);
+            Method toLevelMethod = levelClass.getMethod("toLevel", String.class);
+            logbackLevels = new Object[AuditLevel.values().length];
+            for (AuditLevel level : AuditLevel.values()) {
+                logbackLevels[level.ordinal()] = toLevelMethod.invoke(null, level.name());
+            }
             eventConstructor = eventClass.getConstructor(
                     String.class, loggerClass, levelClass, String.class, Throwable.class, Object[].class
             );
@@ -34,11 +39,10 @@ public class LogbackReflector {
         return available;
     }
 
-    void log(Logger logger, String levelStr, String message, StackTraceElement caller) {
+    void log(Logger logger, AuditLevel level, String message, StackTraceElement caller) {
         try {
-            Object logbackLevel = toLevelMethod.invoke(null, levelStr != null ? levelStr.toUpperCase() : "INFO");
             Object event = eventConstructor.newInstance(
-                    "ch.qos.logback.classic.Logger", logger, logbackLevel, message, null, null
+                    "ch.qos.logback.classic.Logger", logger, logbackLevels[level.ordinal()], message, null, null
             );
             setCallerMethod.invoke(event, (Object) new StackTraceElement[]{caller});
             callAppendersMethod.invoke(logger, event);
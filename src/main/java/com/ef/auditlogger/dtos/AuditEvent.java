@@ -0,0 +1,34 @@
+package com.ef.auditlogger.dtos;
+
+/**
+ * Read-only view of the details of an audit log entry, implemented by {@link AuditInput} and {@link MutableAuditInput}.
+ */
+public interface AuditEvent {
+    String getUserId();
+
+    String getUserName();
+
+    String getAction();
+
+    String getResource();
+
+    String getResourceId();
+
+    String getIp();
+
+    String getService();
+
+    String getTenantId();
+
+    Object getUpdatedData();
+
+    /**
+     * The severity, or {@code null} for {@link AuditLevel#INFO}.
+     */
+    AuditLevel getAuditLevel();
+
+    /**
+     * The category, or {@code null} for {@link AuditType#AUDIT_LOGGING}.
+     */
+    AuditType getAuditType();
+}
@@ -1,14 +1,16 @@
 package com.ef.auditlogger.dtos;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
 
 /**
  * A simple data object for providing the essential details for an audit log entry.
+ * The free-form {@code type} and {@code level} strings are mapped to {@link AuditType} and {@link AuditLevel}.
  */
 @Data
 @Builder
-public class AuditInput {
+public class AuditInput implements AuditEvent {
     private String userId;
     private String userName;
     private String action;
@@ -20,4 +22,16 @@ public class AuditInput {
     private Object updatedData;
     private String type;
     private String level;
-}
\ No newline at end of file
+
+    @JsonIgnore
+    @Override
+    public AuditLevel getAuditLevel() {
+        return AuditLevel.from(level);
+    }
+
+    @JsonIgnore
+    @Override
+    public AuditType getAuditType() {
+        return AuditType.from(type);
+    }
+}
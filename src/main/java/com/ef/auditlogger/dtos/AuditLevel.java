@@ -0,0 +1,49 @@
+package com.ef.auditlogger.dtos;
+
+import org.slf4j.spi.LocationAwareLogger;
+
+/**
+ * Severity of an audit log entry, with the SLF4J level and JSON token resolved up front.
+ */
+public enum AuditLevel {
+    TRACE(LocationAwareLogger.TRACE_INT, "trace"),
+    DEBUG(LocationAwareLogger.DEBUG_INT, "debug"),
+    INFO(LocationAwareLogger.INFO_INT, "info"),
+    WARN(LocationAwareLogger.WARN_INT, "warn"),
+    ERROR(LocationAwareLogger.ERROR_INT, "error");
+
+    private static final AuditLevel[] VALUES = values();
+
+    private final int slf4jLevel;
+    private final String jsonValue;
+
+    AuditLevel(int slf4jLevel, String jsonValue) {
+        this.slf4jLevel = slf4jLevel;
+        this.jsonValue = jsonValue;
+    }
+
+    public int getSlf4jLevel() {
+        return slf4jLevel;
+    }
+
+    /**
+     * The value written to the "level" field of the JSON payload.
+     */
+    public String getJsonValue() {
+        return jsonValue;
+    }
+
+    /**
+     * Case-insensitive lookup. Unknown or missing values fall back to {@link #INFO}.
+     */
+    public static AuditLevel from(String level) {
+        if (level != null) {
+            for (AuditLevel value : VALUES) {
+                if (value.name().equalsIgnoreCase(level)) {
+                    return value;
+                }
+            }
+        }
+        return INFO;
+    }
+}
@@ -0,0 +1,41 @@
+package com.ef.auditlogger.dtos;
+
+/**
+ * Category of a log entry, written to the "type" field of the JSON payload.
+ */
+public enum AuditType {
+    AUDIT_LOGGING("audit_logging"),
+    METRICS("metrics"),
+    TRACING("tracing");
+
+    private final String jsonValue;
+
+    AuditType(String jsonValue) {
+        this.jsonValue = jsonValue;
+    }
+
+    public String getJsonValue() {
+        return jsonValue;
+    }
+
+    /**
+     * Maps free-form type strings the same way earlier versions sanitized them: anything mentioning
+     * "audit", "metric" or "trace" (case-insensitive) maps to that type, everything else to {@link #AUDIT_LOGGING}.
+     */
+    public static AuditType from(String type) {
+        if (type == null) return AUDIT_LOGGING;
+        if (containsIgnoreCase(type, "audit")) return AUDIT_LOGGING;
+        if (containsIgnoreCase(type, "metric")) return METRICS;
+        if (containsIgnoreCase(type, "trace")) return TRACING;
+        return AUDIT_LOGGING;
+    }
+
+    private static boolean containsIgnoreCase(String value, String token) {
+        for (int i = 0; i <= value.length() - token.length(); i++) {
+            if (value.regionMatches(true, i, token, 0, token.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,52 @@
+package com.ef.auditlogger.dtos;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * A reusable, typed alternative to {@link AuditInput} for hot paths.
+ *
+ * <p>Instances are not thread-safe and must stay confined to one thread. Call {@link #reset()} before
+ * filling an instance for the next entry, or use {@link #current()} which does that for the calling thread.
+ */
+@Getter
+@Setter
+@Accessors(chain = true)
+public class MutableAuditInput implements AuditEvent {
+    private static final ThreadLocal<MutableAuditInput> CURRENT = ThreadLocal.withInitial(MutableAuditInput::new);
+
+    private String userId;
+    private String userName;
+    private String action;
+    private String resource;
+    private String resourceId;
+    private String ip;
+    private String service;
+    private String tenantId;
+    private Object updatedData;
+    private AuditType auditType;
+    private AuditLevel auditLevel;
+
+    /**
+     * Returns this thread's cached instance, already reset. It must not be kept after the entry is logged.
+     */
+    public static MutableAuditInput current() {
+        return CURRENT.get().reset();
+    }
+
+    public MutableAuditInput reset() {
+        userId = null;
+        userName = null;
+        action = null;
+        resource = null;
+        resourceId = null;
+        ip = null;
+        service = null;
+        tenantId = null;
+        updatedData = null;
+        auditType = null;
+        auditLevel = null;
+        return this;
+    }
+}
@@ -0,0 +1,96 @@
+package com.ef.auditlogger.reader;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * The indexed fields of one audit log line, extracted with a streaming parser that skips everything else.
+ */
+final class AuditLogFields {
+    String tenantId;
+    String userId;
+    String resource;
+    String resourceId;
+    Instant timestamp;
+
+    /**
+     * Parses the JSON object starting at the first '{' of the line, so appender patterns that prefix
+     * the message are tolerated. Returns {@code null} for lines that are not audit log entries.
+     */
+    static AuditLogFields parse(JsonFactory jsonFactory, ByteBuffer line) {
+        int start = indexOfObject(line);
+        if (start < 0) {
+            return null;
+        }
+        try (JsonParser parser = createParser(jsonFactory, line, start)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            AuditLogFields fields = new AuditLogFields();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                switch (name) {
+                    case "timestamp" -> fields.timestamp = parseTimestamp(parser.getValueAsString());
+                    case "user_id" -> fields.userId = parser.getValueAsString();
+                    case "resource" -> fields.resource = parser.getValueAsString();
+                    case "resource_id" -> fields.resourceId = parser.getValueAsString();
+                    case "attributes" -> readAttributes(parser, fields);
+                    default -> parser.skipChildren();
+                }
+            }
+            return fields;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void readAttributes(JsonParser parser, AuditLogFields fields) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if ("tenantId".equals(name)) {
+                fields.tenantId = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static Instant parseTimestamp(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static JsonParser createParser(JsonFactory jsonFactory, ByteBuffer line, int start) throws IOException {
+        if (line.hasArray()) {
+            return jsonFactory.createParser(line.array(), line.arrayOffset() + start, line.limit() - start);
+        }
+        return jsonFactory.createParser(new ByteBufferBackedInputStream(line.duplicate().position(start)));
+    }
+
+    private static int indexOfObject(ByteBuffer line) {
+        for (int i = line.position(); i < line.limit(); i++) {
+            if (line.get(i) == '{') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,479 @@
+package com.ef.auditlogger.reader;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Posting lists of line offsets keyed by tenant, user, resource, resource id and hourly time bucket.
+ *
+ * <p>Offsets are appended in file order, so every posting list is sorted.
+ * Lists are held as delta-encoded varints both in memory and on disk, typically 1-4 bytes per line and
+ * indexed field, plus a map entry per distinct value. The whole index is kept in memory, so very high
+ * cardinality values (e.g. a unique {@code resource_id} per line) cost tens of bytes per line.
+ *
+ * <p>The sidecar is a header followed by CRC-checked segments. Each {@link #save} appends a segment with
+ * only the postings added since the previous save, and every {@value #MAX_SEGMENTS} segments the file is
+ * rewritten as one. A truncated or corrupt tail is dropped on load and the lines it covered are re-indexed.
+ */
+class AuditLogIndex {
+    static final long BUCKET_MILLIS = 3_600_000L;
+
+    private static final int MAGIC = 0x4146494C;
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 16;
+    private static final int MAX_SEGMENTS = 256;
+
+    enum Field { TENANT_ID, USER_ID, RESOURCE, RESOURCE_ID }
+
+    private static final PostingList EMPTY = new PostingList();
+
+    private final Map<Field, Map<String, PostingList>> postings = new EnumMap<>(Field.class);
+    private final NavigableMap<Long, PostingList> buckets = new TreeMap<>();
+    private long indexedLength;
+    private long headChecksum;
+    private int headLength;
+    private long sidecarLength;
+    private int segments;
+
+    AuditLogIndex() {
+        for (Field field : Field.values()) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    long getIndexedLength() {
+        return indexedLength;
+    }
+
+    void setIndexedLength(long indexedLength) {
+        this.indexedLength = indexedLength;
+    }
+
+    long getHeadChecksum() {
+        return headChecksum;
+    }
+
+    int getHeadLength() {
+        return headLength;
+    }
+
+    void setHead(int headLength, long headChecksum) {
+        this.headLength = headLength;
+        this.headChecksum = headChecksum;
+    }
+
+    void add(long offset, AuditLogFields fields) {
+        add(Field.TENANT_ID, fields.tenantId, offset);
+        add(Field.USER_ID, fields.userId, offset);
+        add(Field.RESOURCE, fields.resource, offset);
+        add(Field.RESOURCE_ID, fields.resourceId, offset);
+        if (fields.timestamp != null) {
+            buckets.computeIfAbsent(Math.floorDiv(fields.timestamp.toEpochMilli(), BUCKET_MILLIS),
+                    b -> new PostingList()).add(offset);
+        }
+    }
+
+    private void add(Field field, String value, long offset) {
+        if (value != null) {
+            postings.get(field).computeIfAbsent(value, v -> new PostingList()).add(offset);
+        }
+    }
+
+    /**
+     * Returns the sorted candidate offsets for the query, or {@code null} if the query has no indexed criteria.
+     *
+     * <p>Only the most selective criterion is decoded: the smallest posting list of the requested values, or the
+     * time buckets in range when they hold fewer entries. The cost is O(k) for k candidates from a field list, or
+     * O(k log b) when merging b buckets, and does not depend on the size of the other lists. Candidates are a
+     * superset of the matches; the reader re-checks every criterion and the exact time range on each line.
+     */
+    long[] lookup(AuditLogQuery query) {
+        PostingList smallest = smaller(null, Field.TENANT_ID, query.getTenantId());
+        smallest = smaller(smallest, Field.USER_ID, query.getUserId());
+        smallest = smaller(smallest, Field.RESOURCE, query.getResource());
+        smallest = smaller(smallest, Field.RESOURCE_ID, query.getResourceId());
+        if (query.getFrom() != null || query.getTo() != null) {
+            Collection<PostingList> range = timeRange(query);
+            long total = 0;
+            for (PostingList list : range) {
+                total += list.size;
+            }
+            if (smallest == null || total < smallest.size) {
+                return merge(range, (int) total);
+            }
+        }
+        return smallest != null ? smallest.toArray() : null;
+    }
+
+    private PostingList smaller(PostingList current, Field field, String value) {
+        if (value == null) {
+            return current;
+        }
+        PostingList list = postings.get(field).getOrDefault(value, EMPTY);
+        return current == null || list.size < current.size ? list : current;
+    }
+
+    private Collection<PostingList> timeRange(AuditLogQuery query) {
+        NavigableMap<Long, PostingList> range = buckets;
+        if (query.getFrom() != null) {
+            range = range.tailMap(Math.floorDiv(query.getFrom().toEpochMilli(), BUCKET_MILLIS), true);
+        }
+        if (query.getTo() != null) {
+            range = range.headMap(Math.floorDiv(query.getTo().toEpochMilli(), BUCKET_MILLIS), true);
+        }
+        return range.values();
+    }
+
+    /**
+     * K-way merge of sorted bucket lists. A line belongs to exactly one bucket, so there are no duplicates.
+     */
+    private static long[] merge(Collection<PostingList> lists, int total) {
+        long[] result = new long[total];
+        PriorityQueue<PostingList.Cursor> queue =
+                new PriorityQueue<>(Math.max(1, lists.size()), Comparator.comparingLong(PostingList.Cursor::value));
+        for (PostingList list : lists) {
+            PostingList.Cursor cursor = list.cursor();
+            if (cursor.next()) {
+                queue.add(cursor);
+            }
+        }
+        int position = 0;
+        while (!queue.isEmpty()) {
+            PostingList.Cursor cursor = queue.poll();
+            result[position++] = cursor.value();
+            if (cursor.next()) {
+                queue.add(cursor);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Persists the postings added since the last save. With {@code rewrite}, or when the sidecar is missing,
+     * out of sync or has too many segments, the whole index is written to a new file instead.
+     */
+    void save(Path path, boolean rewrite) throws IOException {
+        if (rewrite || segments == 0 || segments >= MAX_SEGMENTS
+                || !Files.isRegularFile(path) || Files.size(path) < sidecarLength) {
+            rewrite(path);
+        } else {
+            append(path);
+        }
+        forEachList(PostingList::markSaved);
+    }
+
+    private void rewrite(Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        long length;
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            byte[] header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC).putInt(VERSION).putLong(BUCKET_MILLIS).array();
+            byte[] segment = encodeSegment(true);
+            out.write(header);
+            out.write(segment);
+            length = header.length + segment.length;
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        sidecarLength = length;
+        segments = 1;
+    }
+
+    private void append(Path path) throws IOException {
+        byte[] segment = encodeSegment(false);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(sidecarLength);
+            ByteBuffer buffer = ByteBuffer.wrap(segment);
+            long position = sidecarLength;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+        }
+        sidecarLength += segment.length;
+        segments++;
+    }
+
+    /**
+     * Segment layout: payload length, payload, CRC32 of the payload. The payload holds the covered log length,
+     * the head checksum and the unsaved part of every posting list (or all of it for {@code full}).
+     */
+    private byte[] encodeSegment(boolean full) throws IOException {
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+        DataOutputStream payload = new DataOutputStream(payloadBytes);
+        payload.writeLong(indexedLength);
+        payload.writeInt(headLength);
+        payload.writeLong(headChecksum);
+        for (Field field : Field.values()) {
+            List<Map.Entry<String, PostingList>> changed = new ArrayList<>();
+            for (Map.Entry<String, PostingList> entry : postings.get(field).entrySet()) {
+                if (entry.getValue().hasUnsaved(full)) {
+                    changed.add(entry);
+                }
+            }
+            payload.writeInt(changed.size());
+            for (Map.Entry<String, PostingList> entry : changed) {
+                byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                payload.writeInt(key.length);
+                payload.write(key);
+                entry.getValue().write(payload, full);
+            }
+        }
+        List<Map.Entry<Long, PostingList>> changedBuckets = new ArrayList<>();
+        for (Map.Entry<Long, PostingList> entry : buckets.entrySet()) {
+            if (entry.getValue().hasUnsaved(full)) {
+                changedBuckets.add(entry);
+            }
+        }
+        payload.writeInt(changedBuckets.size());
+        for (Map.Entry<Long, PostingList> entry : changedBuckets) {
+            payload.writeLong(entry.getKey());
+            entry.getValue().write(payload, full);
+        }
+
+        byte[] body = payloadBytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        ByteArrayOutputStream segment = new ByteArrayOutputStream(body.length + 12);
+        DataOutputStream out = new DataOutputStream(segment);
+        out.writeInt(body.length);
+        out.write(body);
+        out.writeLong(crc.getValue());
+        return segment.toByteArray();
+    }
+
+    /**
+     * Loads a sidecar written by {@link #save}, or returns {@code null} if it is missing, unreadable or
+     * incompatible. Segments after the first damaged one are ignored, so the index resumes from the last
+     * intact segment.
+     */
+    static AuditLogIndex load(Path path) {
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            long remaining = Files.size(path) - HEADER_SIZE;
+            if (remaining < 0 || in.readInt() != MAGIC || in.readInt() != VERSION || in.readLong() != BUCKET_MILLIS) {
+                return null;
+            }
+            AuditLogIndex index = new AuditLogIndex();
+            index.sidecarLength = HEADER_SIZE;
+            while (remaining >= 12) {
+                int length = in.readInt();
+                if (length < 0 || length > remaining - 12) {
+                    break;
+                }
+                byte[] body = in.readNBytes(length);
+                CRC32 crc = new CRC32();
+                crc.update(body);
+                if (body.length != length || in.readLong() != crc.getValue() || !index.applySegment(body)) {
+                    break;
+                }
+                remaining -= length + 12;
+                index.sidecarLength += length + 12;
+                index.segments++;
+            }
+            if (index.segments == 0) {
+                return null;
+            }
+            index.forEachList(PostingList::markSaved);
+            return index;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Merges one segment into this index. Returns {@code false} and leaves the index untouched if the
+     * segment is malformed.
+     */
+    private boolean applySegment(byte[] body) {
+        AuditLogIndex segment = new AuditLogIndex();
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+            segment.indexedLength = in.readLong();
+            segment.headLength = in.readInt();
+            segment.headChecksum = in.readLong();
+            for (Field field : Field.values()) {
+                int count = readCount(in, body.length);
+                for (int i = 0; i < count; i++) {
+                    byte[] key = in.readNBytes(readCount(in, body.length));
+                    segment.postings.get(field).put(new String(key, StandardCharsets.UTF_8),
+                            PostingList.read(in, body.length));
+                }
+            }
+            int bucketCount = readCount(in, body.length);
+            for (int i = 0; i < bucketCount; i++) {
+                segment.buckets.put(in.readLong(), PostingList.read(in, body.length));
+            }
+            if (in.available() != 0 || segment.indexedLength < indexedLength || segment.headLength < 0) {
+                return false;
+            }
+        } catch (IOException e) {
+            return false;
+        }
+
+        indexedLength = segment.indexedLength;
+        headLength = segment.headLength;
+        headChecksum = segment.headChecksum;
+        segment.postings.forEach((field, values) -> values.forEach((key, list) ->
+                postings.get(field).computeIfAbsent(key, k -> new PostingList()).append(list)));
+        segment.buckets.forEach((bucket, list) ->
+                buckets.computeIfAbsent(bucket, b -> new PostingList()).append(list));
+        return true;
+    }
+
+    private static int readCount(DataInputStream in, int limit) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > limit) {
+            throw new IOException("Invalid count " + count);
+        }
+        return count;
+    }
+
+    private void forEachList(Consumer<PostingList> action) {
+        postings.values().forEach(values -> values.values().forEach(action));
+        buckets.values().forEach(action);
+    }
+
+    /**
+     * Sorted offsets stored as varint deltas. The part added since the last save is written as a
+     * continuation of the saved part, so segments are simply concatenated on load.
+     */
+    static final class PostingList {
+        private byte[] data = new byte[4];
+        private int length;
+        private int size;
+        private long last;
+        private int savedLength;
+        private int savedSize;
+
+        void add(long value) {
+            if (length + 10 > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + 10));
+            }
+            long delta = value - last;
+            while ((delta & ~0x7FL) != 0) {
+                data[length++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            data[length++] = (byte) delta;
+            last = value;
+            size++;
+        }
+
+        long[] toArray() {
+            long[] values = new long[size];
+            Cursor cursor = cursor();
+            for (int i = 0; cursor.next(); i++) {
+                values[i] = cursor.value();
+            }
+            return values;
+        }
+
+        Cursor cursor() {
+            return new Cursor(this);
+        }
+
+        /**
+         * Decodes the list one offset at a time.
+         */
+        static final class Cursor {
+            private final PostingList list;
+            private int position;
+            private int remaining;
+            private long value;
+
+            private Cursor(PostingList list) {
+                this.list = list;
+                this.remaining = list.size;
+            }
+
+            boolean next() {
+                if (remaining == 0) {
+                    return false;
+                }
+                long delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = list.data[position++];
+                    delta |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                value += delta;
+                remaining--;
+                return true;
+            }
+
+            long value() {
+                return value;
+            }
+        }
+
+        boolean hasUnsaved(boolean full) {
+            return full ? size > 0 : size > savedSize;
+        }
+
+        void markSaved() {
+            savedLength = length;
+            savedSize = size;
+        }
+
+        void write(DataOutputStream out, boolean full) throws IOException {
+            int from = full ? 0 : savedLength;
+            out.writeInt(full ? size : size - savedSize);
+            out.writeLong(last);
+            out.writeInt(length - from);
+            out.write(data, from, length - from);
+        }
+
+        void append(PostingList other) {
+            if (length + other.length > data.length) {
+                data = Arrays.copyOf(data, length + other.length);
+            }
+            System.arraycopy(other.data, 0, data, length, other.length);
+            length += other.length;
+            size += other.size;
+            last = other.last;
+        }
+
+        static PostingList read(DataInputStream in, int limit) throws IOException {
+            PostingList list = new PostingList();
+            list.size = readCount(in, limit);
+            list.last = in.readLong();
+            list.length = readCount(in, limit);
+            if (list.length < list.size || list.last < 0) {
+                throw new IOException("Invalid posting list");
+            }
+            list.data = in.readNBytes(list.length);
+            if (list.data.length != list.length) {
+                throw new IOException("Truncated posting list");
+            }
+            return list;
+        }
+    }
+}
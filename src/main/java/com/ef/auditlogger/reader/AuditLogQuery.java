@@ -0,0 +1,50 @@
+package com.ef.auditlogger.reader;
+
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Lookup criteria for {@link AuditLogReader}. Unset criteria match everything; set criteria are combined with AND.
+ */
+@Data
+@Builder
+public class AuditLogQuery {
+    private String tenantId;
+    private String userId;
+    private String resource;
+    private String resourceId;
+
+    /**
+     * Inclusive lower bound on the entry timestamp.
+     */
+    private Instant from;
+
+    /**
+     * Exclusive upper bound on the entry timestamp.
+     */
+    private Instant to;
+
+    boolean matches(AuditLogFields fields) {
+        return fields != null
+                && matches(tenantId, fields.tenantId)
+                && matches(userId, fields.userId)
+                && matches(resource, fields.resource)
+                && matches(resourceId, fields.resourceId)
+                && matchesTime(fields.timestamp);
+    }
+
+    private boolean matchesTime(Instant timestamp) {
+        if (from == null && to == null) {
+            return true;
+        }
+        if (timestamp == null) {
+            return false;
+        }
+        return (from == null || !timestamp.isBefore(from)) && (to == null || timestamp.isBefore(to));
+    }
+
+    private static boolean matches(String expected, String actual) {
+        return expected == null || expected.equals(actual);
+    }
+}
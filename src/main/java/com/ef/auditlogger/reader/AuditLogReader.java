@@ -0,0 +1,213 @@
+package com.ef.auditlogger.reader;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.CRC32;
+
+/**
+ * Indexed reader for JSON-lines files written by {@link com.ef.auditlogger.AuditLogger}.
+ *
+ * <p>The log file is memory-mapped and indexed into a sidecar file ({@code <log>.idx}). Reopening a file
+ * or calling {@link #refresh()} only indexes lines appended since the last run, and a damaged sidecar is
+ * rebuilt from its last intact segment. A file truncated in place (e.g. logrotate {@code copytruncate}) is
+ * re-indexed by the next {@link #find} or {@link #refresh()}; a file replaced at the same path (rename-style
+ * rotation) is picked up by the next {@link #refresh()}. The index is held in memory while the reader is open; see {@link AuditLogIndex} for its cost.
+ * Instances are not thread-safe.
+ *
+ * <pre>{@code
+ * try (AuditLogReader reader = AuditLogReader.open(Path.of("audit.log"), objectMapper);
+ *      Stream<AuditLogRecord> records = reader.find(AuditLogQuery.builder().resourceId("conn-1").build())) {
+ *     records.forEach(record -> System.out.println(record.getLine()));
+ * }
+ * }</pre>
+ */
+public class AuditLogReader implements Closeable {
+    private static final int HEAD_SIZE = 4096;
+
+    private final Path indexPath;
+    private final ObjectMapper objectMapper;
+    private final MappedLogFile file;
+    private AuditLogIndex index;
+
+    private AuditLogReader(Path logPath, Path indexPath, ObjectMapper objectMapper) throws IOException {
+        this.indexPath = indexPath;
+        this.objectMapper = objectMapper;
+        this.file = new MappedLogFile(logPath);
+    }
+
+    public static AuditLogReader open(Path logPath, ObjectMapper objectMapper) throws IOException {
+        return open(logPath, logPath.resolveSibling(logPath.getFileName() + ".idx"), objectMapper);
+    }
+
+    public static AuditLogReader open(Path logPath, Path indexPath, ObjectMapper objectMapper) throws IOException {
+        AuditLogReader reader = new AuditLogReader(logPath, indexPath, objectMapper);
+        try {
+            reader.index = reader.loadIndex();
+            reader.refresh();
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+        return reader;
+    }
+
+    /**
+     * Indexes complete lines appended since the last refresh and persists the sidecar if anything changed.
+     * A trailing line without a newline is left for the next refresh.
+     */
+    public void refresh() throws IOException {
+        boolean restarted = file.remap();
+        boolean rebuilt = false;
+        if (restarted || file.length() < index.getIndexedLength() || !headMatches(index)) {
+            index = new AuditLogIndex();
+            rebuilt = true;
+        }
+        long start = index.getIndexedLength();
+        long position = start;
+        long length = file.length();
+        while (position < length) {
+            long newline = file.indexOfNewline(position, length);
+            if (newline < 0) {
+                break;
+            }
+            AuditLogFields fields = AuditLogFields.parse(objectMapper.getFactory(), line(position, newline));
+            if (fields != null) {
+                index.add(position, fields);
+            }
+            position = newline + 1;
+        }
+        if (position != start || rebuilt) {
+            index.setIndexedLength(position);
+            int headLength = (int) Math.min(HEAD_SIZE, position);
+            index.setHead(headLength, checksum(headLength));
+            index.save(indexPath, rebuilt);
+        }
+    }
+
+    /**
+     * Streams the records matching the query. Only candidate lines from the index are read and parsed;
+     * the stream should be closed or fully consumed by the caller.
+     */
+    public Stream<AuditLogRecord> find(AuditLogQuery query) {
+        Objects.requireNonNull(query, "query");
+        try {
+            if (file.size() < index.getIndexedLength()) {
+                refresh();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long[] candidates = index.lookup(query);
+        if (candidates == null) {
+            return StreamSupport.stream(new LineSpliterator(query), false);
+        }
+        return Arrays.stream(candidates)
+                .mapToObj(offset -> matchAt(offset, query))
+                .filter(Objects::nonNull);
+    }
+
+    private AuditLogRecord matchAt(long offset, AuditLogQuery query) {
+        ensureNotTruncated();
+        long newline = file.indexOfNewline(offset, index.getIndexedLength());
+        return newline >= 0 ? match(offset, newline, query) : null;
+    }
+
+    private AuditLogRecord match(long offset, long newline, AuditLogQuery query) {
+        ByteBuffer line = line(offset, newline);
+        if (!query.matches(AuditLogFields.parse(objectMapper.getFactory(), line))) {
+            return null;
+        }
+        byte[] bytes = new byte[line.remaining()];
+        line.get(line.position(), bytes);
+        return new AuditLogRecord(offset, bytes, objectMapper);
+    }
+
+    /**
+     * Returns the line without its terminator, as a view of the mapped file where possible.
+     */
+    private ByteBuffer line(long position, long newline) {
+        long end = newline;
+        if (end > position && file.get(end - 1) == '\r') {
+            end--;
+        }
+        return file.slice(position, (int) (end - position));
+    }
+
+    /**
+     * Fails a running query instead of faulting on mapped pages that a truncation has removed.
+     */
+    private void ensureNotTruncated() {
+        try {
+            if (file.size() < index.getIndexedLength()) {
+                throw new IOException("Audit log was truncated while it was being read");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private AuditLogIndex loadIndex() {
+        AuditLogIndex loaded = AuditLogIndex.load(indexPath);
+        return loaded != null ? loaded : new AuditLogIndex();
+    }
+
+    private boolean headMatches(AuditLogIndex candidate) {
+        int headLength = candidate.getHeadLength();
+        return headLength <= file.length() && checksum(headLength) == candidate.getHeadChecksum();
+    }
+
+    private long checksum(int headLength) {
+        CRC32 crc = new CRC32();
+        crc.update(file.read(0, headLength));
+        return crc.getValue();
+    }
+
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+
+    /**
+     * Sequential scan used when the query has no indexed criteria.
+     */
+    private final class LineSpliterator extends Spliterators.AbstractSpliterator<AuditLogRecord> {
+        private final AuditLogQuery query;
+        private long position;
+
+        private LineSpliterator(AuditLogQuery query) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.query = query;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super AuditLogRecord> action) {
+            long limit = index.getIndexedLength();
+            while (position < limit) {
+                ensureNotTruncated();
+                long offset = position;
+                long newline = file.indexOfNewline(offset, limit);
+                if (newline < 0) {
+                    return false;
+                }
+                position = newline + 1;
+                AuditLogRecord record = match(offset, newline, query);
+                if (record != null) {
+                    action.accept(record);
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
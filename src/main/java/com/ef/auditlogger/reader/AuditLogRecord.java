@@ -0,0 +1,53 @@
+package com.ef.auditlogger.reader;
+
+import com.ef.auditlogger.models.AuditLogPayload;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One audit log line returned by {@link AuditLogReader}. The line is kept as raw bytes and only
+ * bound to an {@link AuditLogPayload} when {@link #getPayload()} is first called.
+ */
+public class AuditLogRecord {
+    private final long offset;
+    private final byte[] line;
+    private final ObjectMapper objectMapper;
+    private AuditLogPayload payload;
+
+    AuditLogRecord(long offset, byte[] line, ObjectMapper objectMapper) {
+        this.offset = offset;
+        this.line = line;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Byte offset of the line within the log file.
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * The line as written to the log file, including any appender prefix.
+     */
+    public String getLine() {
+        return new String(line, StandardCharsets.UTF_8);
+    }
+
+    public AuditLogPayload getPayload() {
+        if (payload == null) {
+            int start = 0;
+            while (line[start] != '{') {
+                start++;
+            }
+            try {
+                payload = objectMapper.readValue(line, start, line.length - start, AuditLogPayload.class);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,162 @@
+package com.ef.auditlogger.reader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only memory mapping of a growing log file. Files larger than 2GB are mapped in fixed-size chunks,
+ * and {@link #remap()} extends the mapping after the file has grown, or re-opens the path when the file
+ * was replaced by a rename-style rotation.
+ *
+ * <p>Touching mapped bytes beyond the end of a file that was truncated in place faults the JVM with an
+ * {@link InternalError}, so callers check {@link #size()} against the range they read first.
+ */
+class MappedLogFile implements Closeable {
+    static final int CHUNK_SIZE = 1 << 30;
+
+    private final Path path;
+    private final List<MappedByteBuffer> chunks = new ArrayList<>();
+    private FileChannel channel;
+    private Object fileKey;
+    private long length;
+
+    MappedLogFile(Path path) throws IOException {
+        this.path = path;
+        openChannel();
+        remap();
+    }
+
+    /**
+     * Length covered by the current mapping.
+     */
+    long length() {
+        return length;
+    }
+
+    /**
+     * Current length of the open file, which is less than {@link #length()} after an in-place truncation.
+     */
+    long size() throws IOException {
+        return channel.size();
+    }
+
+    /**
+     * Maps any bytes appended since the last call. Only the last, partially filled chunk is re-mapped.
+     * Returns {@code true} if the file was replaced or truncated and mapping restarted from the beginning.
+     */
+    boolean remap() throws IOException {
+        boolean restarted = false;
+        if (isReplaced()) {
+            channel.close();
+            chunks.clear();
+            length = 0;
+            openChannel();
+            restarted = true;
+        }
+        long size = channel.size();
+        if (size < length) {
+            chunks.clear();
+            length = 0;
+            restarted = true;
+        }
+        if (size == length) {
+            return restarted;
+        }
+        if (!chunks.isEmpty() && chunks.get(chunks.size() - 1).capacity() < CHUNK_SIZE) {
+            chunks.remove(chunks.size() - 1);
+        }
+        long position = (long) chunks.size() * CHUNK_SIZE;
+        while (position < size) {
+            long chunkLength = Math.min(CHUNK_SIZE, size - position);
+            chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, position, chunkLength));
+            position += chunkLength;
+        }
+        length = size;
+        return restarted;
+    }
+
+    private void openChannel() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        fileKey = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+    }
+
+    /**
+     * Whether another file now exists at the path. Platforms without file keys never report a replacement,
+     * and a path that does not exist yet keeps the old file until the new one is created.
+     */
+    private boolean isReplaced() throws IOException {
+        if (fileKey == null) {
+            return false;
+        }
+        try {
+            return !fileKey.equals(Files.readAttributes(path, BasicFileAttributes.class).fileKey());
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    byte get(long position) {
+        return chunks.get((int) (position / CHUNK_SIZE)).get((int) (position % CHUNK_SIZE));
+    }
+
+    /**
+     * Returns a view of the mapped bytes, copying only when the range spans two chunks.
+     */
+    ByteBuffer slice(long position, int size) {
+        MappedByteBuffer chunk = chunks.get((int) (position / CHUNK_SIZE));
+        int offset = (int) (position % CHUNK_SIZE);
+        if (offset + size <= chunk.capacity()) {
+            return chunk.slice(offset, size);
+        }
+        return ByteBuffer.wrap(read(position, size));
+    }
+
+    /**
+     * Returns the position of the next '\n' at or after {@code position}, or -1 if the line is not complete yet.
+     */
+    long indexOfNewline(long position, long limit) {
+        long current = position;
+        while (current < limit) {
+            MappedByteBuffer chunk = chunks.get((int) (current / CHUNK_SIZE));
+            long chunkStart = current - current % CHUNK_SIZE;
+            int end = (int) Math.min(chunk.capacity(), limit - chunkStart);
+            for (int i = (int) (current - chunkStart); i < end; i++) {
+                if (chunk.get(i) == '\n') {
+                    return chunkStart + i;
+                }
+            }
+            current = chunkStart + end;
+        }
+        return -1;
+    }
+
+    byte[] read(long position, int size) {
+        byte[] bytes = new byte[size];
+        int copied = 0;
+        while (copied < size) {
+            long current = position + copied;
+            MappedByteBuffer chunk = chunks.get((int) (current / CHUNK_SIZE));
+            int offset = (int) (current % CHUNK_SIZE);
+            int count = Math.min(size - copied, chunk.capacity() - offset);
+            chunk.get(offset, bytes, copied, count);
+            copied += count;
+        }
+        return bytes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        chunks.clear();
+        channel.close();
+    }
+}
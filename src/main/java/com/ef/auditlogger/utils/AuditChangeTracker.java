@@ -0,0 +1,334 @@
+package com.ef.auditlogger.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Records field writes as they happen and produces the same {@code updated_data} structure as
+ * {@link AuditDiffCalculator#calculateDiff(Object, Object)}, diffing only the fields that were touched.
+ *
+ * <p>Beans call {@link #record(String, Object, Object)} from their setters, maps are wrapped with
+ * {@link #track(Map)}. Nested objects use {@link #child(String)} and list elements use
+ * {@link #element(String, Object)}, which adds the {@code key}/{@code id} identity to the diff.
+ * Field names must be the Jackson property names, e.g. {@code user_id} for a field annotated with
+ * {@code @JsonProperty("user_id")}, otherwise the diff will not match {@code calculateDiff}.
+ *
+ * <p>Instances are not thread-safe and old values are held by reference, so they must not be mutated in place.
+ */
+public class AuditChangeTracker {
+
+    private final AuditDiffCalculator calculator;
+    private final Map<String, FieldChange> changes = new LinkedHashMap<>();
+    private final Map<String, AuditChangeTracker> children = new LinkedHashMap<>();
+    private final Map<String, Map<String, AuditChangeTracker>> elements = new LinkedHashMap<>();
+    private final Map<String, IdentityHashMap<Object, AuditChangeTracker>> elementsByItem = new HashMap<>();
+    private final Map<String, Object> identity;
+
+    public AuditChangeTracker(ObjectMapper objectMapper) {
+        this(new AuditDiffCalculator(objectMapper), Map.of());
+    }
+
+    private AuditChangeTracker(AuditDiffCalculator calculator, Map<String, Object> identity) {
+        this.calculator = calculator;
+        this.identity = identity;
+    }
+
+    /**
+     * Records a write to an existing field. Repeated writes keep the first old value and the latest new value.
+     */
+    public void record(String field, Object oldValue, Object newValue) {
+        record(field, oldValue, true, newValue);
+    }
+
+    /**
+     * Returns the tracker for a nested object. A direct {@link #record} of the same field takes precedence.
+     */
+    public AuditChangeTracker child(String field) {
+        return children.computeIfAbsent(field, f -> new AuditChangeTracker(calculator, Map.of()));
+    }
+
+    /**
+     * Returns the tracker for a list element, identified like {@link AuditDiffCalculator} does: by its
+     * {@code key}, or by its {@code id} when it has no key. Both are added to the element's diff when present.
+     * Map elements are read directly, beans are converted with Jackson once per element instance.
+     */
+    public AuditChangeTracker element(String field, Object item) {
+        IdentityHashMap<Object, AuditChangeTracker> known =
+                elementsByItem.computeIfAbsent(field, f -> new IdentityHashMap<>());
+        AuditChangeTracker tracker = known.get(item);
+        if (tracker == null) {
+            Map<String, Object> itemIdentity = identityOf(item);
+            if (itemIdentity.isEmpty()) {
+                throw new IllegalArgumentException("List element of '" + field + "' has no 'key' or 'id'");
+            }
+            String matchKey = itemIdentity.containsKey("key")
+                    ? "key:" + itemIdentity.get("key")
+                    : "id:" + itemIdentity.get("id");
+            tracker = elements.computeIfAbsent(field, f -> new LinkedHashMap<>())
+                    .computeIfAbsent(matchKey, k -> new AuditChangeTracker(calculator, itemIdentity));
+            known.put(item, tracker);
+        }
+        return tracker;
+    }
+
+    private Map<String, Object> identityOf(Object item) {
+        if (item instanceof Map<?, ?> map
+                && isScalar(map.get("key")) && isScalar(map.get("id"))) {
+            Map<String, Object> itemIdentity = new LinkedHashMap<>();
+            if (map.containsKey("key")) {
+                itemIdentity.put("key", String.valueOf(map.get("key")));
+            }
+            if (map.containsKey("id")) {
+                itemIdentity.put("id", String.valueOf(map.get("id")));
+            }
+            return itemIdentity;
+        }
+        return calculator.identityOf(item);
+    }
+
+    private static boolean isScalar(Object value) {
+        return value == null || value instanceof String || value instanceof Boolean
+                || value instanceof Integer || value instanceof Long;
+    }
+
+    /**
+     * Wraps a map so that writes through the map, its entries and its views are recorded on this tracker.
+     */
+    public Map<String, Object> track(Map<String, Object> target) {
+        return new TrackingMap(target);
+    }
+
+    public boolean hasChanges() {
+        return getUpdatedData() != null;
+    }
+
+    public void reset() {
+        changes.clear();
+        children.clear();
+        elements.clear();
+        elementsByItem.clear();
+    }
+
+    /**
+     * Builds the diff of everything recorded so far, or {@code null} when nothing actually changed.
+     */
+    public Map<String, Object> getUpdatedData() {
+        Map<String, Object> diffMap = new HashMap<>();
+        changes.forEach((field, change) -> {
+            if (!change.removed) {
+                calculator.appendFieldDiff(diffMap, field, change.oldValue, change.hadOld, change.newValue);
+            }
+        });
+
+        children.forEach((field, child) -> {
+            if (!changes.containsKey(field)) {
+                Map<String, Object> childDiff = child.getUpdatedData();
+                if (childDiff != null) {
+                    diffMap.put(field, childDiff);
+                }
+            }
+        });
+
+        elements.forEach((field, trackers) -> {
+            if (!changes.containsKey(field)) {
+                List<Object> diffList = collectElementDiffs(trackers);
+                if (!diffList.isEmpty()) {
+                    diffMap.put(field, diffList);
+                }
+            }
+        });
+        return diffMap.isEmpty() ? null : diffMap;
+    }
+
+    private List<Object> collectElementDiffs(Map<String, AuditChangeTracker> trackers) {
+        List<Object> diffList = new ArrayList<>();
+        for (AuditChangeTracker tracker : trackers.values()) {
+            Map<String, Object> itemDiff = tracker.getUpdatedData();
+            if (itemDiff != null) {
+                tracker.identity.forEach(itemDiff::putIfAbsent);
+                diffList.add(itemDiff);
+            }
+        }
+        return diffList;
+    }
+
+    private void record(String field, Object oldValue, boolean hadOld, Object newValue) {
+        FieldChange existing = changes.get(field);
+        if (existing != null) {
+            existing.newValue = newValue;
+            existing.removed = false;
+        } else if (!hadOld || !Objects.equals(oldValue, newValue)) {
+            changes.put(field, new FieldChange(oldValue, hadOld, newValue));
+        }
+    }
+
+    /**
+     * Marks a field as removed while keeping its original value, so a later write is diffed against it.
+     * Removed fields are left out of the diff, mirroring {@link AuditDiffCalculator} which only reports
+     * keys present in the new data.
+     */
+    private void markRemoved(String field, Object oldValue) {
+        FieldChange existing = changes.get(field);
+        if (existing == null) {
+            existing = new FieldChange(oldValue, true, null);
+            changes.put(field, existing);
+        }
+        existing.removed = true;
+    }
+
+    private static final class FieldChange {
+        private final Object oldValue;
+        private final boolean hadOld;
+        private Object newValue;
+        private boolean removed;
+
+        private FieldChange(Object oldValue, boolean hadOld, Object newValue) {
+            this.oldValue = oldValue;
+            this.hadOld = hadOld;
+            this.newValue = newValue;
+        }
+    }
+
+    /**
+     * Write-through view of a map. Removals and {@code Entry.setValue} through the entry set and the
+     * inherited key and value views are recorded as well.
+     */
+    private final class TrackingMap extends AbstractMap<String, Object> {
+        private final Map<String, Object> target;
+        private final Set<Entry<String, Object>> entrySet = new TrackingEntrySet();
+
+        private TrackingMap(Map<String, Object> target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            boolean hadOld = target.containsKey(key);
+            Object oldValue = target.put(key, value);
+            record(key, oldValue, hadOld, value);
+            return oldValue;
+        }
+
+        @Override
+        public Object remove(Object key) {
+            if (!target.containsKey(key)) {
+                return null;
+            }
+            Object oldValue = target.remove(key);
+            markRemoved((String) key, oldValue);
+            return oldValue;
+        }
+
+        @Override
+        public void clear() {
+            target.forEach(AuditChangeTracker.this::markRemoved);
+            target.clear();
+        }
+
+        @Override
+        public Object get(Object key) {
+            return target.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return target.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return target.size();
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return entrySet;
+        }
+
+        private final class TrackingEntrySet extends AbstractSet<Entry<String, Object>> {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                Iterator<Entry<String, Object>> iterator = target.entrySet().iterator();
+                return new Iterator<>() {
+                    private Entry<String, Object> current;
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        current = iterator.next();
+                        return new TrackingEntry(current);
+                    }
+
+                    @Override
+                    public void remove() {
+                        String key = current.getKey();
+                        Object oldValue = current.getValue();
+                        iterator.remove();
+                        markRemoved(key, oldValue);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return target.size();
+            }
+
+            @Override
+            public void clear() {
+                TrackingMap.this.clear();
+            }
+        }
+
+        private final class TrackingEntry implements Entry<String, Object> {
+            private final Entry<String, Object> entry;
+
+            private TrackingEntry(Entry<String, Object> entry) {
+                this.entry = entry;
+            }
+
+            @Override
+            public String getKey() {
+                return entry.getKey();
+            }
+
+            @Override
+            public Object getValue() {
+                return entry.getValue();
+            }
+
+            @Override
+            public Object setValue(Object value) {
+                Object oldValue = entry.setValue(value);
+                record(entry.getKey(), oldValue, true, value);
+                return oldValue;
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                return o instanceof Entry<?, ?> other
+                        && Objects.equals(getKey(), other.getKey())
+                        && Objects.equals(getValue(), other.getValue());
+            }
+
+            @Override
+            public int hashCode() {
+                return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+            }
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.ef.auditlogger.utils;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -28,6 +30,39 @@ public class AuditDiffCalculator {
         }
     }
 
+    /**
+     * Diffs a single property using the same rules {@link #calculateDiff(Object, Object)} applies to
+     * object properties, so callers that already know which fields changed can skip the full comparison.
+     */
+    void appendFieldDiff(Map<String, Object> diffMap, String key, Object oldData, boolean hadOld, Object newData) {
+        try {
+            JsonNode oldValue = hadOld ? toNode(oldData) : null;
+            JsonNode newValue = toNode(newData);
+            if (oldValue == null || !oldValue.equals(newValue)) {
+                appendObjectDiff(diffMap, key, oldValue, newValue);
+            }
+        } catch (Exception e) {
+            diffMap.put(key, newData);
+        }
+    }
+
+    /**
+     * Returns the {@code key}/{@code id} metadata that {@link #calculateDiff(Object, Object)} injects for a list element.
+     */
+    Map<String, Object> identityOf(Object item) {
+        Map<String, Object> identity = new LinkedHashMap<>();
+        JsonNode node = objectMapper.valueToTree(item);
+        if (node != null && node.isObject()) {
+            injectIdentityMetadata(identity, node);
+        }
+        return identity;
+    }
+
+    private JsonNode toNode(Object data) {
+        JsonNode node = objectMapper.valueToTree(data);
+        return node != null ? node : NullNode.getInstance();
+    }
+
     private Object findDiffNested(JsonNode oldNode, JsonNode newNode) {
         if (newNode.isObject()) {
             return diffObject(oldNode, newNode);
@@ -0,0 +1,135 @@
+package com.ef.auditlogger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import com.ef.auditlogger.dtos.AuditInput;
+import com.ef.auditlogger.dtos.MutableAuditInput;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the bytes allocated per {@link AuditLogger#log} call with {@link com.sun.management.ThreadMXBean}
+ * and fails when they exceed the budget checked in as {@code allocation-budget.properties}.
+ */
+class AuditLoggerAllocationTest {
+
+    private static final int WARMUP_EVENTS = 20_000;
+    private static final int MEASURED_EVENTS = 20_000;
+    private static final String FQCN = AuditLoggerAllocationTest.class.getName();
+    private static final Map<String, Object> UPDATED_DATA = Map.of("status", "INACTIVE", "retries", 3);
+
+    private final AuditLogger auditLogger = new AuditLogger(new ObjectMapper());
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Logger logger;
+    private CountingAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(), "Allocation measurement is not supported");
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        logger = (Logger) LoggerFactory.getLogger("audit.allocation." + System.nanoTime());
+        logger.setAdditive(false);
+        logger.setLevel(Level.INFO);
+        appender = new CountingAppender();
+        appender.setContext(logger.getLoggerContext());
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        appender.stop();
+    }
+
+    @Test
+    @DisplayName("AuditInput path should stay within its allocation budget")
+    void testAuditInputAllocationBudget() throws IOException {
+        Runnable event = () -> auditLogger.log(logger, AuditInput.builder()
+                .userId("u123")
+                .action("UPDATE")
+                .resource("Team")
+                .resourceId("team-1")
+                .tenantId("expertflow")
+                .service("UserService")
+                .updatedData(UPDATED_DATA)
+                .type("audit_logging")
+                .level("info")
+                .build(), FQCN);
+
+        assertWithinBudget("auditInput.bytesPerEvent", event);
+    }
+
+    @Test
+    @DisplayName("MutableAuditInput path should stay within its allocation budget")
+    void testMutableAuditInputAllocationBudget() throws IOException {
+        Runnable event = () -> auditLogger.log(logger, MutableAuditInput.current()
+                .setUserId("u123")
+                .setAction("UPDATE")
+                .setResource("Team")
+                .setResourceId("team-1")
+                .setTenantId("expertflow")
+                .setService("UserService")
+                .setUpdatedData(UPDATED_DATA), FQCN);
+
+        assertWithinBudget("mutableAuditInput.bytesPerEvent", event);
+    }
+
+    private void assertWithinBudget(String budgetKey, Runnable event) throws IOException {
+        long budget = loadBudget(budgetKey);
+        for (int i = 0; i < WARMUP_EVENTS; i++) {
+            event.run();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_EVENTS; i++) {
+            event.run();
+        }
+        long bytesPerEvent = (threadMXBean.getThreadAllocatedBytes(threadId) - before) / MEASURED_EVENTS;
+
+        assertEquals(WARMUP_EVENTS + MEASURED_EVENTS, appender.count);
+        assertTrue(bytesPerEvent <= budget,
+                budgetKey + ": " + bytesPerEvent + " bytes allocated per event, budget is " + budget);
+    }
+
+    static long loadBudget(String key) throws IOException {
+        Properties budgets = new Properties();
+        try (InputStream in = AuditLoggerAllocationTest.class.getResourceAsStream("/allocation-budget.properties")) {
+            assertNotNull(in, "allocation-budget.properties is missing");
+            budgets.load(in);
+        }
+        String value = budgets.getProperty(key);
+        assertNotNull(value, "No budget for " + key);
+        return Long.parseLong(value.trim());
+    }
+
+    /**
+     * Keeps no reference to events so that only the allocations of one log call are measured.
+     */
+    private static final class CountingAppender extends AppenderBase<ILoggingEvent> {
+        private int count;
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            count++;
+        }
+    }
+}
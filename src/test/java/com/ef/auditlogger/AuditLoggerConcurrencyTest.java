@@ -0,0 +1,206 @@
+package com.ef.auditlogger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.ef.auditlogger.dtos.AuditInput;
+import com.ef.auditlogger.dtos.AuditLevel;
+import com.ef.auditlogger.dtos.MutableAuditInput;
+import com.ef.auditlogger.models.AuditLogPayload;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Drives {@link AuditLogger} from many threads against an in-memory Logback appender and checks that
+ * every event arrives exactly once, intact, and in program order per thread.
+ */
+class AuditLoggerConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int EVENTS_PER_THREAD = 500;
+    private static final int WARMUP_RUNS = 5;
+    private static final String FQCN = AuditLoggerConcurrencyTest.class.getName();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AuditLogger auditLogger = new AuditLogger(objectMapper);
+
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        logger = (Logger) LoggerFactory.getLogger("audit.concurrency." + System.nanoTime());
+        logger.setAdditive(false);
+        logger.setLevel(Level.TRACE);
+        appender = new ListAppender<>();
+        appender.setContext(logger.getLoggerContext());
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        appender.stop();
+    }
+
+    @Test
+    @DisplayName("Should deliver every event intact from platform threads")
+    void testPlatformThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            runWorkers(executor, false);
+        } finally {
+            shutdown(executor);
+        }
+        assertIntegrity(false);
+    }
+
+    @Test
+    @DisplayName("Should inject caller data correctly under contention")
+    void testPlatformThreadsWithCallerInjection() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            runWorkers(executor, true);
+        } finally {
+            shutdown(executor);
+        }
+        assertIntegrity(true);
+    }
+
+    @Test
+    @DisplayName("Should deliver every event intact from virtual threads")
+    void testVirtualThreads() throws Exception {
+        ExecutorService executor = newVirtualThreadExecutor();
+        assumeTrue(executor != null, "Virtual threads require Java 21+");
+        try {
+            runWorkers(executor, true);
+        } finally {
+            shutdown(executor);
+        }
+        assertIntegrity(true);
+    }
+
+    @Test
+    @DisplayName("Should sustain the throughput floor from platform threads")
+    void testPlatformThreadsThroughput() throws Exception {
+        long floor = AuditLoggerAllocationTest.loadBudget("concurrency.eventsPerSecond");
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long elapsed;
+        try {
+            for (int i = 0; i < WARMUP_RUNS; i++) {
+                runWorkers(executor, false);
+                appender.list.clear();
+            }
+            long start = System.nanoTime();
+            runWorkers(executor, false);
+            elapsed = System.nanoTime() - start;
+        } finally {
+            shutdown(executor);
+        }
+        assertIntegrity(false);
+
+        long eventsPerSecond = THREADS * EVENTS_PER_THREAD * TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsed);
+        assertTrue(eventsPerSecond >= floor,
+                eventsPerSecond + " events per second from " + THREADS + " threads, floor is " + floor);
+    }
+
+    private void runWorkers(ExecutorService executor, boolean injectCaller) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int worker = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < EVENTS_PER_THREAD; i++) {
+                    log(worker, i, injectCaller);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+    }
+
+    private void log(int worker, int sequence, boolean injectCaller) {
+        StackTraceElement caller = injectCaller
+                ? new StackTraceElement("com.ef.Worker" + worker, "run", "Worker.java", sequence + 1)
+                : null;
+        if (sequence % 2 == 0) {
+            AuditInput input = AuditInput.builder()
+                    .userId("worker-" + worker)
+                    .resourceId(String.valueOf(sequence))
+                    .action("UPDATE")
+                    .level("warn")
+                    .updatedData(Map.of("sequence", sequence))
+                    .build();
+            auditLogger.log(logger, input, FQCN, caller);
+        } else {
+            MutableAuditInput input = MutableAuditInput.current()
+                    .setUserId("worker-" + worker)
+                    .setResourceId(String.valueOf(sequence))
+                    .setAction("UPDATE")
+                    .setAuditLevel(AuditLevel.WARN)
+                    .setUpdatedData(Map.of("sequence", sequence));
+            auditLogger.log(logger, input, FQCN, caller);
+        }
+    }
+
+    private void assertIntegrity(boolean injectCaller) throws Exception {
+        List<ILoggingEvent> events = new ArrayList<>(appender.list);
+        assertEquals(THREADS * EVENTS_PER_THREAD, events.size());
+
+        Map<String, Integer> lastSequence = new HashMap<>();
+        for (ILoggingEvent event : events) {
+            assertEquals(Level.WARN, event.getLevel());
+            AuditLogPayload payload = objectMapper.readValue(event.getFormattedMessage(), AuditLogPayload.class);
+            int sequence = Integer.parseInt(payload.getResourceId());
+            Map<?, ?> updatedData = (Map<?, ?>) payload.getAttributes().get("updated_data");
+            assertEquals(sequence, updatedData.get("sequence"), "Payload fields must come from the same call");
+
+            Integer previous = lastSequence.put(payload.getUserId(), sequence);
+            assertEquals(previous == null ? 0 : previous + 1, sequence,
+                    "Events of one thread must arrive once and in program order");
+
+            if (injectCaller) {
+                StackTraceElement caller = event.getCallerData()[0];
+                assertEquals("com.ef.Worker" + payload.getUserId().substring("worker-".length()),
+                        caller.getClassName());
+                assertEquals(sequence + 1, caller.getLineNumber());
+            }
+        }
+        assertEquals(THREADS, lastSequence.size());
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static void shutdown(ExecutorService executor) throws InterruptedException {
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+    }
+}
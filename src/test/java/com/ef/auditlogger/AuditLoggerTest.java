@@ -1,6 +1,9 @@
 package com.ef.auditlogger;
 
 import com.ef.auditlogger.dtos.AuditInput;
+import com.ef.auditlogger.dtos.AuditLevel;
+import com.ef.auditlogger.dtos.AuditType;
+import com.ef.auditlogger.dtos.MutableAuditInput;
 import com.ef.auditlogger.models.AuditLogPayload;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -67,6 +70,58 @@ class AuditLoggerTest {
         assertEquals("UserService", loggedPayload.getAttributes().get("service"));
     }
 
+    @Test
+    void log_shouldMapLegacyStrings_toTypedLevelAndType() throws JsonProcessingException {
+        // Arrange
+        AuditInput input = AuditInput.builder()
+                .userId("u123")
+                .type(" Metric-Data ")
+                .level("Error")
+                .build();
+
+        // Act
+        auditLogger.log(mockLogger, input, this.getClass().getName());
+
+        // Assert
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(mockLogger).error(captor.capture());
+
+        AuditLogPayload loggedPayload = realObjectMapper.readValue(captor.getValue(), AuditLogPayload.class);
+        assertEquals("error", loggedPayload.getLevel());
+        assertEquals("metrics", loggedPayload.getType());
+    }
+
+    @Test
+    void log_shouldLogReusedMutableInput() throws JsonProcessingException {
+        // Arrange
+        MutableAuditInput input = MutableAuditInput.current()
+                .setUserId("u123")
+                .setAction("UPDATE")
+                .setAuditLevel(AuditLevel.WARN)
+                .setAuditType(AuditType.TRACING);
+
+        // Act
+        auditLogger.log(mockLogger, input, this.getClass().getName());
+        MutableAuditInput reused = MutableAuditInput.current().setUserId("u456");
+        auditLogger.log(mockLogger, reused, this.getClass().getName());
+
+        // Assert
+        assertSame(input, reused);
+        ArgumentCaptor<String> warnCaptor = ArgumentCaptor.forClass(String.class);
+        verify(mockLogger).warn(warnCaptor.capture());
+        AuditLogPayload first = realObjectMapper.readValue(warnCaptor.getValue(), AuditLogPayload.class);
+        assertEquals("u123", first.getUserId());
+        assertEquals("warn", first.getLevel());
+        assertEquals("tracing", first.getType());
+
+        ArgumentCaptor<String> infoCaptor = ArgumentCaptor.forClass(String.class);
+        verify(mockLogger).info(infoCaptor.capture());
+        AuditLogPayload second = realObjectMapper.readValue(infoCaptor.getValue(), AuditLogPayload.class);
+        assertEquals("u456", second.getUserId());
+        assertNull(second.getAction(), "Reset should clear fields from the previous entry");
+        assertEquals("audit_logging", second.getType());
+    }
+
     @Test
     void log_shouldLogError_whenSerializationFails() throws JsonProcessingException {
         // Arrange
@@ -0,0 +1,61 @@
+package com.ef.auditlogger.reader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AuditLogIndexTest {
+
+    private static final Instant START = Instant.parse("2026-02-03T00:00:00Z");
+
+    @Test
+    @DisplayName("Should decode only the most selective posting list")
+    void testLookupUsesSmallestList() {
+        AuditLogIndex index = new AuditLogIndex();
+        for (int i = 0; i < 1000; i++) {
+            index.add(i * 100L, fields("t1", "r-" + (i % 10), START));
+        }
+        index.add(100_000L, fields("t1", "r-x", START));
+
+        assertArrayEquals(new long[] {100_000L},
+                index.lookup(AuditLogQuery.builder().tenantId("t1").resourceId("r-x").build()));
+        assertEquals(100, index.lookup(AuditLogQuery.builder().tenantId("t1").resourceId("r-3").build()).length);
+        assertEquals(0, index.lookup(AuditLogQuery.builder().tenantId("t1").resourceId("missing").build()).length);
+        assertNull(index.lookup(AuditLogQuery.builder().build()));
+    }
+
+    @Test
+    @DisplayName("Should merge time buckets in offset order")
+    void testLookupMergesBuckets() {
+        AuditLogIndex index = new AuditLogIndex();
+        for (int i = 0; i < 30; i++) {
+            Instant timestamp = START.plusMillis((i % 3) * AuditLogIndex.BUCKET_MILLIS);
+            index.add(i * 100L, fields("t1", "r-1", timestamp));
+        }
+
+        long[] candidates = index.lookup(AuditLogQuery.builder().from(START).build());
+        assertEquals(30, candidates.length);
+        for (int i = 0; i < candidates.length; i++) {
+            assertEquals(i * 100L, candidates[i]);
+        }
+        long[] laterHours = index.lookup(AuditLogQuery.builder()
+                .tenantId("t1")
+                .from(START.plusMillis(AuditLogIndex.BUCKET_MILLIS))
+                .build());
+        assertEquals(20, laterHours.length);
+        assertEquals(100L, laterHours[0]);
+        assertEquals(2900L, laterHours[19]);
+    }
+
+    private static AuditLogFields fields(String tenantId, String resourceId, Instant timestamp) {
+        AuditLogFields fields = new AuditLogFields();
+        fields.tenantId = tenantId;
+        fields.userId = "u1";
+        fields.resource = "Team";
+        fields.resourceId = resourceId;
+        fields.timestamp = timestamp;
+        return fields;
+    }
+}
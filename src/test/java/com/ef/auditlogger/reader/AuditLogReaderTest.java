@@ -0,0 +1,240 @@
+package com.ef.auditlogger.reader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.ef.auditlogger.models.AuditLogPayload;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AuditLogReaderTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    private Path logFile;
+
+    @BeforeEach
+    void setUp() {
+        logFile = tempDir.resolve("audit.log");
+    }
+
+    @Test
+    @DisplayName("Should return only records matching all criteria")
+    void testFindByCriteria() throws IOException {
+        append(line("2026-02-03T10:00:00Z", "t1", "u1", "Team", "team-1"),
+                line("2026-02-03T10:05:00Z", "t1", "u2", "Team", "team-2"),
+                line("2026-02-03T10:10:00Z", "t2", "u1", "Team", "team-1"));
+
+        try (AuditLogReader reader = AuditLogReader.open(logFile, mapper)) {
+            assertEquals(List.of("u1", "u1"), userIds(reader, AuditLogQuery.builder().resourceId("team-1").build()));
+            assertEquals(List.of("u1"),
+                    userIds(reader, AuditLogQuery.builder().tenantId("t2").resource("Team").build()));
+            assertEquals(List.of(), userIds(reader, AuditLogQuery.builder().userId("missing").build()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should filter by exact time range within hourly buckets")
+    void testFindByTimeRange() throws IOException {
+        append(line("2026-02-03T10:00:00Z", "t1", "u1", "Team", "team-1"),
+                line("2026-02-03T10:30:00Z", "t1", "u2", "Team", "team-1"),
+                line("2026-02-03T12:00:00Z", "t1", "u3", "Team", "team-1"));
+
+        try (AuditLogReader reader = AuditLogReader.open(logFile, mapper)) {
+            AuditLogQuery query = AuditLogQuery.builder()
+                    .from(Instant.parse("2026-02-03T10:15:00Z"))
+                    .to(Instant.parse("2026-02-03T12:00:00Z"))
+                    .build();
+
+            assertEquals(List.of("u2"), userIds(reader, query));
+        }
+    }
+
+    @Test
+    @DisplayName("Should index appended lines incrementally and leave incomplete lines for later")
+    void testIncrementalRefresh() throws IOException {
+        append(line("2026-02-03T10:00:00Z", "t1", "u1", "Team", "team-1"));
+
+        try (AuditLogReader reader = AuditLogReader.open(logFile, mapper)) {
+            String partial = line("2026-02-03T11:00:00Z", "t1", "u2", "Team", "team-1");
+            Files.writeString(logFile, partial.substring(0, 20), StandardOpenOption.APPEND);
+            reader.refresh();
+            assertEquals(List.of("u1"), userIds(reader, AuditLogQuery.builder().resourceId("team-1").build()));
+
+            Files.writeString(logFile, partial.substring(20) + "\n", StandardOpenOption.APPEND);
+            reader.refresh();
+            assertEquals(List.of("u1", "u2"), userIds(reader, AuditLogQuery.builder().resourceId("team-1").build()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should resume from the sidecar index and rebuild it when the log is rotated")
+    void testSidecarReuseAndRotation() throws IOException {
+        append(line("2026-02-03T10:00:00Z", "t1", "u1", "Team", "team-1"));
+        AuditLogReader.open(logFile, mapper).close();
+        assertTrue(Files.exists(tempDir.resolve("audit.log.idx")));
+
+        append(line("2026-02-03T11:00:00Z", "t1", "u2", "Team", "team-1"));
+        try (AuditLogReader reader = AuditLogReader.open(logFile, mapper)) {
+            assertEquals(List.of("u1", "u2"), userIds(reader, AuditLogQuery.builder().resourceId("team-1").build()));
+        }
+
+        Files.writeString(logFile, line("2026-02-04T09:00:00Z", "t1", "u3", "Team", "team-1") + "\n");
+        try (AuditLogReader reader = AuditLogReader.open(logFile, mapper)) {
+            assertEquals(List.of("u3"), userIds(reader, AuditLogQuery.builder().resourceId("team-1").build()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should re-index instead of faulting when the log is truncated while open")
+    void testTruncatedWhileOpen() throws IOException {
+        append(line("2026-02-03T10:00:00Z", "t1", "u1", "Team", "team-1"),
+                line("2026-02-03T10:01:00Z", "t1", "u2", "Team", "team-1"));
+
+        try (AuditLogReader reader = AuditLogReader.open(logFile, mapper)) {
+            try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+                channel.truncate(0);
+            }
+            assertEquals(List.of(), userIds(reader, AuditLogQuery.builder().resourceId("team-1").build()));
+
+            append(line("2026-02-03T11:00:00Z", "t1", "u3", "Team", "team-1"));
+            reader.refresh();
+            assertEquals(List.of("u3"), userIds(reader, AuditLogQuery.builder().resourceId("team-1").build()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should follow a rename-style rotation on refresh")
+    void testRenameRotationWhileOpen() throws IOException {
+        append(line("2026-02-03T10:00:00Z", "t1", "u1", "Team", "team-1"));
+
+        try (AuditLogReader reader = AuditLogReader.open(logFile, mapper)) {
+            Files.move(logFile, tempDir.resolve("audit.log.1"));
+            append(line("2026-02-03T10:00:00Z", "t1", "u2", "Team", "team-1"),
+                    line("2026-02-03T11:00:00Z", "t1", "u3", "Team", "team-1"));
+            reader.refresh();
+
+            assertEquals(List.of("u2", "u3"), userIds(reader, AuditLogQuery.builder().resourceId("team-1").build()));
+        }
+        try (AuditLogReader reader = AuditLogReader.open(logFile, mapper)) {
+            assertEquals(List.of("u2", "u3"), userIds(reader, AuditLogQuery.builder().resourceId("team-1").build()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should recover when the sidecar is truncated or corrupt")
+    void testDamagedSidecar() throws IOException {
+        append(line("2026-02-03T10:00:00Z", "t1", "u1", "Team", "team-1"));
+        AuditLogReader.open(logFile, mapper).close();
+        append(line("2026-02-03T11:00:00Z", "t1", "u2", "Team", "team-1"));
+        AuditLogReader.open(logFile, mapper).close();
+
+        Path sidecar = tempDir.resolve("audit.log.idx");
+        byte[] bytes = Files.readAllBytes(sidecar);
+        Files.write(sidecar, Arrays.copyOf(bytes, bytes.length - 5));
+        try (AuditLogReader reader = AuditLogReader.open(logFile, mapper)) {
+            assertEquals(List.of("u1", "u2"), userIds(reader, AuditLogQuery.builder().resourceId("team-1").build()));
+        }
+
+        byte[] garbage = Files.readAllBytes(sidecar);
+        Arrays.fill(garbage, 16, garbage.length, (byte) 0x7F);
+        Files.write(sidecar, garbage);
+        try (AuditLogReader reader = AuditLogReader.open(logFile, mapper)) {
+            assertEquals(List.of("u1", "u2"), userIds(reader, AuditLogQuery.builder().resourceId("team-1").build()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should append new postings to the sidecar instead of rewriting it")
+    void testSidecarAppend() throws IOException {
+        append(line("2026-02-03T10:00:00Z", "t1", "u1", "Team", "team-1"));
+        Path sidecar = tempDir.resolve("audit.log.idx");
+
+        try (AuditLogReader reader = AuditLogReader.open(logFile, mapper)) {
+            byte[] before = Files.readAllBytes(sidecar);
+            append(line("2026-02-03T11:00:00Z", "t1", "u2", "Team", "team-1"));
+            reader.refresh();
+
+            byte[] after = Files.readAllBytes(sidecar);
+            assertTrue(after.length > before.length);
+            assertArrayEquals(before, Arrays.copyOf(after, before.length));
+        }
+        try (AuditLogReader reader = AuditLogReader.open(logFile, mapper)) {
+            assertEquals(List.of("u1", "u2"), userIds(reader, AuditLogQuery.builder().resourceId("team-1").build()));
+            assertEquals(List.of("u2"), userIds(reader, AuditLogQuery.builder().userId("u2").build()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should index values longer than 64KB")
+    void testLongValues() throws IOException {
+        String longUserId = "u".repeat(70_000);
+        append(line("2026-02-03T10:00:00Z", "t1", longUserId, "Team", "team-1"));
+        AuditLogReader.open(logFile, mapper).close();
+
+        try (AuditLogReader reader = AuditLogReader.open(logFile, mapper)) {
+            assertEquals(List.of(longUserId), userIds(reader, AuditLogQuery.builder().userId(longUserId).build()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should skip appender prefixes and non-audit lines")
+    void testPrefixedAndForeignLines() throws IOException {
+        append("10:00:00.000 INFO  c.e.UserService - " + line("2026-02-03T10:00:00Z", "t1", "u1", "Team", "team-1"),
+                "plain text line",
+                line("2026-02-03T10:01:00Z", "t1", "u2", "User", "user-1"));
+
+        try (AuditLogReader reader = AuditLogReader.open(logFile, mapper)) {
+            assertEquals(List.of("u1"), userIds(reader, AuditLogQuery.builder().resource("Team").build()));
+            assertEquals(List.of("u1", "u2"), userIds(reader, AuditLogQuery.builder().build()));
+        }
+    }
+
+    private List<String> userIds(AuditLogReader reader, AuditLogQuery query) {
+        try (Stream<AuditLogRecord> records = reader.find(query)) {
+            return records.map(record -> record.getPayload().getUserId()).collect(Collectors.toList());
+        }
+    }
+
+    private void append(String... lines) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (String line : lines) {
+            content.append(line).append('\n');
+        }
+        Files.writeString(logFile, content, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private String line(String timestamp, String tenantId, String userId, String resource, String resourceId)
+            throws IOException {
+        AuditLogPayload payload = AuditLogPayload.builder()
+                .timestamp(timestamp)
+                .type("audit_logging")
+                .level("info")
+                .userId(userId)
+                .action("UPDATE")
+                .resource(resource)
+                .resourceId(resourceId)
+                .attributes(Map.of("service", "UserService", "tenantId", tenantId,
+                        "updated_data", Map.of("name", "x")))
+                .build();
+        return mapper.writeValueAsString(payload);
+    }
+}
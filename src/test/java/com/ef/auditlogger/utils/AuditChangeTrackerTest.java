@@ -0,0 +1,226 @@
+package com.ef.auditlogger.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AuditChangeTrackerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private AuditChangeTracker tracker;
+    private AuditDiffCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new AuditChangeTracker(mapper);
+        calculator = new AuditDiffCalculator(mapper);
+    }
+
+    @Test
+    @DisplayName("Should match calculateDiff for map puts")
+    void testTrackedMapMatchesCalculator() {
+        Map<String, Object> oldData = Map.of("name", "John", "age", 30);
+        Map<String, Object> data = new HashMap<>(oldData);
+
+        Map<String, Object> tracked = tracker.track(data);
+        tracked.put("age", 31);
+        tracked.put("name", "John");
+        tracked.put("newField", "added");
+
+        assertEquals(calculator.calculateDiff(oldData, data), tracker.getUpdatedData());
+        assertEquals(31, data.get("age"), "Writes should go through to the wrapped map");
+    }
+
+    @Test
+    @DisplayName("Should record bean setter changes and ignore unchanged writes")
+    void testRecordedSetters() {
+        tracker.record("status", "ACTIVE", "INACTIVE");
+        tracker.record("retries", 0, 0);
+
+        Map<String, Object> diff = tracker.getUpdatedData();
+
+        assertEquals(Map.of("status", "INACTIVE"), diff);
+    }
+
+    @Test
+    @DisplayName("Should return null when a field is written back to its original value")
+    void testRevertedChange() {
+        tracker.record("status", "ACTIVE", "INACTIVE");
+        tracker.record("status", "INACTIVE", "ACTIVE");
+
+        assertNull(tracker.getUpdatedData());
+        assertFalse(tracker.hasChanges());
+    }
+
+    @Test
+    @DisplayName("Should nest child object changes")
+    void testNestedChild() {
+        Map<String, Object> oldData = Map.of("user", Map.of("id", 1, "status", "ACTIVE"));
+
+        tracker.child("user").record("status", "ACTIVE", "INACTIVE");
+
+        Map<String, Object> newData = Map.of("user", Map.of("id", 1, "status", "INACTIVE"));
+        assertEquals(calculator.calculateDiff(oldData, newData), tracker.getUpdatedData());
+    }
+
+    @Test
+    @DisplayName("Should inject identity metadata for list element changes")
+    void testListElementIdentity() {
+        List<Map<String, Object>> oldConfigs = List.of(
+                Map.of("key", "TIMEOUT", "value", 100),
+                Map.of("key", "RETRY", "value", 3)
+        );
+        List<Map<String, Object>> newConfigs = List.of(
+                Map.of("key", "TIMEOUT", "value", 500),
+                Map.of("key", "RETRY", "value", 3)
+        );
+
+        tracker.element("cfg", oldConfigs.get(0)).record("value", 100, 500);
+        tracker.element("cfg", oldConfigs.get(1)).record("value", 3, 3);
+
+        assertEquals(calculator.calculateDiff(Map.of("cfg", oldConfigs), Map.of("cfg", newConfigs)),
+                tracker.getUpdatedData());
+    }
+
+    @Test
+    @DisplayName("Should inject both key and id for list elements that have both")
+    void testListElementWithKeyAndId() {
+        Map<String, Object> oldItem = Map.of("id", 7, "key", "A", "value", 1);
+        Map<String, Object> newItem = Map.of("id", 7, "key", "A", "value", 2);
+
+        tracker.element("items", oldItem).record("value", 1, 2);
+
+        assertEquals(calculator.calculateDiff(Map.of("items", List.of(oldItem)), Map.of("items", List.of(newItem))),
+                tracker.getUpdatedData());
+    }
+
+    @Test
+    @DisplayName("Should read map element identity without Jackson and convert bean elements once")
+    void testElementIdentityLookupCost() {
+        AtomicInteger conversions = new AtomicInteger();
+        ObjectMapper countingMapper = new ObjectMapper() {
+            @Override
+            public <T extends JsonNode> T valueToTree(Object fromValue) {
+                conversions.incrementAndGet();
+                return super.valueToTree(fromValue);
+            }
+        };
+        AuditChangeTracker countingTracker = new AuditChangeTracker(countingMapper);
+
+        Map<String, Object> mapItem = Map.of("key", "A", "value", 1);
+        countingTracker.element("items", mapItem);
+        assertEquals(0, conversions.get(), "Map elements should not be converted");
+
+        Config bean = new Config("B", 1);
+        AuditChangeTracker first = countingTracker.element("configs", bean);
+        AuditChangeTracker second = countingTracker.element("configs", bean);
+        assertSame(first, second);
+        assertEquals(1, conversions.get(), "A tracked bean should be converted only once");
+    }
+
+    @Test
+    @DisplayName("Should match calculateDiff for beans when Jackson property names are recorded")
+    void testBeanElementWithJsonProperty() {
+        Config oldConfig = new Config("A", 1);
+        Config newConfig = new Config("A", 2);
+
+        tracker.element("configs", oldConfig).record("config_value", 1, 2);
+
+        assertEquals(calculator.calculateDiff(Map.of("configs", List.of(oldConfig)),
+                Map.of("configs", List.of(newConfig))), tracker.getUpdatedData());
+    }
+
+    @Test
+    @DisplayName("Should reject list elements without identity")
+    void testListElementWithoutIdentity() {
+        assertThrows(IllegalArgumentException.class, () -> tracker.element("items", Map.of("value", 1)));
+    }
+
+    @Test
+    @DisplayName("Should drop removed keys like calculateDiff does")
+    void testRemovedKey() {
+        Map<String, Object> tracked = tracker.track(new HashMap<>(Map.of("a", 1)));
+        tracked.put("a", 2);
+        tracked.remove("a");
+
+        assertNull(tracker.getUpdatedData());
+    }
+
+    @Test
+    @DisplayName("Should diff a re-put key against its original value")
+    void testRemoveThenPut() {
+        Map<String, Object> oldData = Map.of("a", 1, "user", Map.of("id", 1, "status", "A"));
+        Map<String, Object> data = new HashMap<>(oldData);
+        Map<String, Object> tracked = tracker.track(data);
+
+        tracked.remove("a");
+        tracked.put("a", 1);
+        tracked.remove("user");
+        tracked.put("user", Map.of("id", 1, "status", "B"));
+
+        assertEquals(calculator.calculateDiff(oldData, data), tracker.getUpdatedData());
+        assertEquals(Map.of("user", Map.of("status", "B")), tracker.getUpdatedData());
+    }
+
+    @Test
+    @DisplayName("Should record writes through entries and map views")
+    void testViewsWriteThrough() {
+        Map<String, Object> oldData = Map.of("a", 1, "b", 2, "c", 3);
+        Map<String, Object> data = new HashMap<>(oldData);
+        Map<String, Object> tracked = tracker.track(data);
+
+        tracked.entrySet().forEach(entry -> {
+            if (entry.getKey().equals("a")) {
+                entry.setValue(10);
+            }
+        });
+        tracked.keySet().remove("b");
+        tracked.entrySet().removeIf(entry -> entry.getKey().equals("c"));
+
+        assertEquals(Map.of("a", 10), data);
+        assertEquals(calculator.calculateDiff(oldData, data), tracker.getUpdatedData());
+
+        tracked.put("b", 2);
+        assertEquals(Map.of("a", 10), tracker.getUpdatedData(), "Re-adding the original value is not a change");
+    }
+
+    @Test
+    @DisplayName("Should report null leaf values")
+    void testNullLeaf() {
+        Map<String, Object> tracked = tracker.track(new HashMap<>(Map.of("val", "not null")));
+        tracked.put("val", null);
+
+        Map<String, Object> diff = tracker.getUpdatedData();
+
+        assertTrue(diff.containsKey("val"));
+        assertNull(diff.get("val"));
+    }
+
+    static class Config {
+        private final String key;
+        private final int value;
+
+        Config(String key, int value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        @JsonProperty("config_value")
+        public int getValue() {
+            return value;
+        }
+    }
+}